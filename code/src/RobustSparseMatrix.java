@@ -21,6 +21,51 @@ public class RobustSparseMatrix {
         }
     }
     
+    // Scratch space shared by every step of a power or chain computation:
+    // a dense row accumulator plus a pool of recycled nodes for the output
+    private static class MultiplyWorkspace {
+        int[] accumulator = new int[0];
+        boolean[] occupied = new boolean[0];
+        int[] touched = new int[0];
+        MatrixNode freeNodes;
+        
+        void ensureCapacity(int width) {
+            if (accumulator.length < width) {
+                accumulator = new int[width];
+                occupied = new boolean[width];
+                touched = new int[width];
+            }
+        }
+        
+        MatrixNode obtainNode(int r, int c, int val) {
+            if (freeNodes == null) {
+                return new MatrixNode(r, c, val);
+            }
+            MatrixNode node = freeNodes;
+            freeNodes = node.nextInRow;
+            node.row = r;
+            node.col = c;
+            node.value = val;
+            node.nextInRow = null;
+            return node;
+        }
+        
+        // Returns all nodes of an intermediate matrix to the pool
+        void recycle(RobustSparseMatrix matrix) {
+            for (int i = 0; i < matrix.rows; i++) {
+                MatrixNode current = matrix.rowHeads[i];
+                while (current != null) {
+                    MatrixNode next = current.nextInRow;
+                    current.nextInRow = freeNodes;
+                    freeNodes = current;
+                    current = next;
+                }
+                matrix.rowHeads[i] = null;
+            }
+            matrix.nonZeroCount = 0;
+        }
+    }
+    
     public RobustSparseMatrix(int numRows, int numCols) {
         this.rows = numRows;
         this.cols = numCols;
@@ -373,6 +418,209 @@ public class RobustSparseMatrix {
         return result;
     }
     
+    public RobustSparseMatrix power(int k) {
+        if (this.rows != this.cols) {
+            System.out.println("Matrix must be square for exponentiation");
+            System.out.println("Matrix A: " + this.rows + "×" + this.cols);
+            return null;
+        }
+        if (k < 0) {
+            System.out.println("Negative exponents are not supported: " + k);
+            return null;
+        }
+        
+        MultiplyWorkspace workspace = new MultiplyWorkspace();
+        if (k == 0) {
+            RobustSparseMatrix identity = new RobustSparseMatrix(this.rows, this.cols);
+            for (int i = 0; i < this.rows; i++) {
+                identity.rowHeads[i] = workspace.obtainNode(i, i, 1);
+            }
+            identity.nonZeroCount = this.rows;
+            return identity;
+        }
+        
+        // Exponentiation by squaring: O(log k) products instead of k - 1
+        RobustSparseMatrix result = null;
+        RobustSparseMatrix base = this;
+        while (k > 0) {
+            if ((k & 1) == 1) {
+                if (result == null) {
+                    result = base.copyWith(workspace);
+                } else {
+                    RobustSparseMatrix next = result.multiplyWith(base, this.cols, workspace);
+                    workspace.recycle(result);
+                    result = next;
+                }
+            }
+            k >>= 1;
+            if (k > 0) {
+                RobustSparseMatrix squared = base.multiplyWith(base, this.cols, workspace);
+                if (base != this) {
+                    workspace.recycle(base);
+                }
+                base = squared;
+            }
+        }
+        if (base != this) {
+            workspace.recycle(base);
+        }
+        return result;
+    }
+    
+    public static RobustSparseMatrix multiplyChain(RobustSparseMatrix... matrices) {
+        if (matrices == null || matrices.length == 0) {
+            System.out.println("No matrices given for chain multiplication");
+            return null;
+        }
+        
+        int n = matrices.length;
+        for (int m = 0; m < n; m++) {
+            if (matrices[m] == null) {
+                System.out.println("Matrix " + m + " in the chain is missing");
+                return null;
+            }
+        }
+        
+        // Same off-by-one tolerance as multiply(): each link uses the smaller dimension
+        int[] innerDims = new int[n];
+        for (int m = 0; m + 1 < n; m++) {
+            RobustSparseMatrix left = matrices[m];
+            RobustSparseMatrix right = matrices[m + 1];
+            if (Math.abs(left.cols - right.rows) > 1) {
+                System.out.println("Matrix dimensions don't match for chain multiplication");
+                System.out.println("Matrix " + m + ": " + left.rows + "×" + left.cols);
+                System.out.println("Matrix " + (m + 1) + ": " + right.rows + "×" + right.cols);
+                return null;
+            }
+            if (left.cols != right.rows) {
+                System.out.println("Warning: Dimension mismatch by 1 between matrices " + m + " and " + (m + 1) + ". Adjusting for compatibility.");
+            }
+            innerDims[m] = Math.min(left.cols, right.rows);
+        }
+        
+        MultiplyWorkspace workspace = new MultiplyWorkspace();
+        if (n == 1) {
+            return matrices[0].copyWith(workspace);
+        }
+        
+        // Matrix-chain ordering where the cost of a product is its expected number
+        // of scalar multiplications, nnz(L) × nnz(R) / inner, and the product's nnz
+        // is estimated as that count capped by its dense size
+        double[][] cost = new double[n][n];
+        double[][] estimatedNnz = new double[n][n];
+        int[][] split = new int[n][n];
+        for (int m = 0; m < n; m++) {
+            estimatedNnz[m][m] = matrices[m].nonZeroCount;
+        }
+        for (int length = 2; length <= n; length++) {
+            for (int i = 0; i + length - 1 < n; i++) {
+                int j = i + length - 1;
+                cost[i][j] = Double.MAX_VALUE;
+                for (int s = i; s < j; s++) {
+                    double flops = estimatedNnz[i][s] * estimatedNnz[s + 1][j] / Math.max(1, innerDims[s]);
+                    double total = cost[i][s] + cost[s + 1][j] + flops;
+                    if (total < cost[i][j]) {
+                        cost[i][j] = total;
+                        split[i][j] = s;
+                        double denseSize = (double) matrices[i].rows * matrices[j].cols;
+                        estimatedNnz[i][j] = Math.min(denseSize, flops);
+                    }
+                }
+            }
+        }
+        
+        return evaluateChain(matrices, innerDims, split, 0, n - 1, workspace);
+    }
+    
+    private static RobustSparseMatrix evaluateChain(RobustSparseMatrix[] matrices, int[] innerDims,
+                                                    int[][] split, int i, int j, MultiplyWorkspace workspace) {
+        if (i == j) {
+            return matrices[i];
+        }
+        int s = split[i][j];
+        RobustSparseMatrix left = evaluateChain(matrices, innerDims, split, i, s, workspace);
+        RobustSparseMatrix right = evaluateChain(matrices, innerDims, split, s + 1, j, workspace);
+        RobustSparseMatrix product = left.multiplyWith(right, innerDims[s], workspace);
+        
+        // Intermediates go back to the pool; caller-owned inputs are left alone
+        if (s > i) {
+            workspace.recycle(left);
+        }
+        if (j > s + 1) {
+            workspace.recycle(right);
+        }
+        return product;
+    }
+    
+    // Row-by-row product using a dense accumulator, so each output row is built
+    // in one pass over the non-zeros of A's row and the matching rows of B
+    private RobustSparseMatrix multiplyWith(RobustSparseMatrix other, int compatibleDim, MultiplyWorkspace workspace) {
+        RobustSparseMatrix result = new RobustSparseMatrix(this.rows, other.cols);
+        workspace.ensureCapacity(other.cols);
+        int[] accumulator = workspace.accumulator;
+        boolean[] occupied = workspace.occupied;
+        int[] touched = workspace.touched;
+        
+        for (int i = 0; i < this.rows; i++) {
+            int touchedCount = 0;
+            
+            for (MatrixNode thisNode = this.rowHeads[i]; thisNode != null; thisNode = thisNode.nextInRow) {
+                if (thisNode.col >= compatibleDim) {
+                    break;
+                }
+                for (MatrixNode otherNode = other.rowHeads[thisNode.col]; otherNode != null; otherNode = otherNode.nextInRow) {
+                    int j = otherNode.col;
+                    if (!occupied[j]) {
+                        occupied[j] = true;
+                        touched[touchedCount++] = j;
+                    }
+                    accumulator[j] += thisNode.value * otherNode.value;
+                }
+            }
+            
+            if (touchedCount == 0) continue;
+            Arrays.sort(touched, 0, touchedCount);
+            
+            MatrixNode tail = null;
+            for (int t = 0; t < touchedCount; t++) {
+                int j = touched[t];
+                int value = accumulator[j];
+                accumulator[j] = 0;
+                occupied[j] = false;
+                if (value == 0) continue;
+                
+                MatrixNode node = workspace.obtainNode(i, j, value);
+                if (tail == null) {
+                    result.rowHeads[i] = node;
+                } else {
+                    tail.nextInRow = node;
+                }
+                tail = node;
+                result.nonZeroCount++;
+            }
+        }
+        
+        return result;
+    }
+    
+    private RobustSparseMatrix copyWith(MultiplyWorkspace workspace) {
+        RobustSparseMatrix copy = new RobustSparseMatrix(this.rows, this.cols);
+        for (int i = 0; i < this.rows; i++) {
+            MatrixNode tail = null;
+            for (MatrixNode current = this.rowHeads[i]; current != null; current = current.nextInRow) {
+                MatrixNode node = workspace.obtainNode(i, current.col, current.value);
+                if (tail == null) {
+                    copy.rowHeads[i] = node;
+                } else {
+                    tail.nextInRow = node;
+                }
+                tail = node;
+            }
+        }
+        copy.nonZeroCount = this.nonZeroCount;
+        return copy;
+    }
+    
     public void saveToFile(String filename) {
         try {
             FileWriter writer = new FileWriter(filename);